@@ -8,6 +8,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static com.aggregator.constants.ApplicationConstants.*;
+
 /**
  * Configuration class for data source properties.
  * This class is used to load data source configurations from the application properties
@@ -41,5 +43,43 @@ public class DataSourcePropertiesConfig {
          * and the values represent the actual column names in the database.
          */
         private Map<String, String> mapping;
+
+        /**
+         * Read replicas of this data source.
+         * Reads are spread across healthy replicas, writes always go to the primary {@code url}.
+         */
+        private List<ReplicaConfig> replicas = new ArrayList<>();
+
+        /**
+         * The replica load balancing strategy ("least-outstanding", "latency-weighted").
+         */
+        private String loadBalancing = LOAD_BALANCING_LEAST_OUTSTANDING;
+
+        /**
+         * The maximum replication lag in seconds a replica may have to serve reads.
+         * No limit is applied when not set.
+         */
+        private Long maxReplicationLagSeconds;
+
+        /**
+         * The time in seconds to wait for a connection to a read replica before falling back to the primary.
+         */
+        private int replicaConnectTimeoutSeconds = REPLICA_CONNECT_TIMEOUT_SECONDS;
+
+        /**
+         * The time in seconds to wait for a read replica to answer on an open connection.
+         */
+        private int replicaSocketTimeoutSeconds = REPLICA_SOCKET_TIMEOUT_SECONDS;
+    }
+
+    /**
+     * Inner class representing the configuration for a single read replica.
+     * The credentials default to the ones of the primary data source when not set.
+     */
+    @Data
+    public static class ReplicaConfig {
+        private String url;
+        private String user;
+        private String password;
     }
 }
\ No newline at end of file
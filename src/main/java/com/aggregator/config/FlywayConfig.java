@@ -1,15 +1,16 @@
 package com.aggregator.config;
 
-import com.aggregator.util.StringUtil;
+import com.aggregator.dialect.DatabaseDialectRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
 
-import static com.aggregator.constants.ApplicationConstants.*;
+import static com.aggregator.constants.ApplicationConstants.MIGRATION_BASE_PATH;
 
 /**
  * Configuration class for Flyway database migrations.
@@ -21,6 +22,7 @@ import static com.aggregator.constants.ApplicationConstants.*;
 public class FlywayConfig {
 
     private final DataSourcePropertiesConfig dataSourceProperties;
+    private final DatabaseDialectRegistry dialectRegistry;
 
     /**
      * Executes Flyway migrations for all configured data sources.
@@ -33,25 +35,12 @@ public class FlywayConfig {
         for (DataSourcePropertiesConfig.DataSourceConfig config : dataSources) {
             log.info("Running Flyway migration for: {}", config.getName());
 
-            if (STRATEGY_MY_SQL.equalsIgnoreCase(config.getStrategy())) {
-                Flyway.configure()
-                        .dataSource(config.getUrl(), config.getUser(), config.getPassword())
-                        .locations(MIGRATION_BASE_PATH + config.getStrategy())
-                        .baselineOnMigrate(true)
-                        .defaultSchema(StringUtil.extractDatabaseName(config.getUrl()))
-                        .load()
-                        .migrate();
-            }
-
-            if (STRATEGY_POSTGRESQL.equalsIgnoreCase(config.getStrategy())) {
-                Flyway.configure()
-                        .dataSource(config.getUrl(), config.getUser(), config.getPassword())
-                        .locations(MIGRATION_BASE_PATH + config.getStrategy())
-                        .baselineOnMigrate(true)
-                        .schemas(POSTGRESQL_BASE_SCHEMA)
-                        .load()
-                        .migrate();
-            }
+            FluentConfiguration flyway = Flyway.configure()
+                    .dataSource(config.getUrl(), config.getUser(), config.getPassword())
+                    .locations(MIGRATION_BASE_PATH + config.getStrategy())
+                    .baselineOnMigrate(true);
+            dialectRegistry.getDialect(config.getStrategy()).configureFlyway(flyway, config);
+            flyway.load().migrate();
         }
     }
 }
\ No newline at end of file
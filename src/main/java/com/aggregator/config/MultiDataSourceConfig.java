@@ -1,5 +1,11 @@
 package com.aggregator.config;
 
+import com.aggregator.dialect.DatabaseDialect;
+import com.aggregator.dialect.DatabaseDialectRegistry;
+import com.aggregator.routing.ReadReplicaRouter;
+import com.aggregator.routing.ReplicaLoadBalancer;
+import com.aggregator.routing.ReplicaNode;
+import com.aggregator.routing.ReplicaPool;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,10 +15,10 @@ import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.sql.DataSource;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
-import static com.aggregator.constants.ApplicationConstants.STRATEGY_MY_SQL;
-import static com.aggregator.constants.ApplicationConstants.STRATEGY_POSTGRESQL;
+import java.util.Optional;
+import java.util.Properties;
 
 /**
  * Configuration class for creating multiple data sources.
@@ -25,6 +31,7 @@ import static com.aggregator.constants.ApplicationConstants.STRATEGY_POSTGRESQL;
 public class MultiDataSourceConfig {
 
     private final DataSourcePropertiesConfig properties;
+    private final DatabaseDialectRegistry dialectRegistry;
 
     /**
      * Creates a map of data sources,
@@ -37,38 +44,71 @@ public class MultiDataSourceConfig {
         Map<String, DataSource> dataSourceMap = new HashMap<>();
         log.info("Creating DataSources from properties: {}", properties.getDataSources());
         for (DataSourcePropertiesConfig.DataSourceConfig config : properties.getDataSources()) {
-            dataSourceMap.put(config.getName(), createDataSource(config));
+            dataSourceMap.put(config.getName(),
+                    createDataSource(config, config.getUrl(), config.getUser(), config.getPassword(), new Properties()));
         }
         log.info("Created DataSources: {}", dataSourceMap.keySet());
         return dataSourceMap;
     }
 
+    /**
+     * Creates the router spreading reads across the read replicas of each data source.
+     * Data sources without replicas keep reading from their primary.
+     *
+     * @return The {@link ReadReplicaRouter}.
+     * @throws IllegalArgumentException If a database or load balancing strategy is unsupported.
+     */
+    @Bean
+    public ReadReplicaRouter readReplicaRouter() {
+        Map<String, ReplicaPool> replicaPools = new HashMap<>();
+        for (DataSourcePropertiesConfig.DataSourceConfig config : properties.getDataSources()) {
+            if (config.getReplicas().isEmpty()) {
+                continue;
+            }
+            DatabaseDialect dialect = dialectRegistry.getDialect(config.getStrategy());
+            Properties timeoutProperties = dialect.getTimeoutProperties(
+                    config.getReplicaConnectTimeoutSeconds(), config.getReplicaSocketTimeoutSeconds());
+            List<ReplicaNode> replicas = config.getReplicas().stream()
+                    .map(replica -> new ReplicaNode(replica.getUrl(), createDataSource(config,
+                            replica.getUrl(),
+                            Optional.ofNullable(replica.getUser()).orElse(config.getUser()),
+                            Optional.ofNullable(replica.getPassword()).orElse(config.getPassword()),
+                            timeoutProperties)))
+                    .toList();
+            replicaPools.put(config.getName(), new ReplicaPool(replicas,
+                    ReplicaLoadBalancer.forStrategy(config.getLoadBalancing()),
+                    dialect,
+                    config.getMaxReplicationLagSeconds()));
+            log.info("Created {} read replicas for database: {}", replicas.size(), config.getName());
+        }
+        return new ReadReplicaRouter(replicaPools);
+    }
+
     /**
      * Creates a {@link DataSource} instance based on the provided configuration.
+     * The driver and connection properties are supplied by the {@link DatabaseDialect} of the strategy.
      *
-     * @param config The configuration for the data source.
+     * @param config          The configuration for the data source.
+     * @param url             The JDBC URL to connect to, either the primary or a read replica.
+     * @param user            The database user.
+     * @param password        The database password.
+     * @param extraProperties Connection properties added to the dialect defaults, such as replica timeouts.
      * @return A configured {@link DataSource} instance.
      * @throws IllegalArgumentException If the database strategy is unsupported.
      */
-    private DataSource createDataSource(DataSourcePropertiesConfig.DataSourceConfig config) {
+    private DataSource createDataSource(DataSourcePropertiesConfig.DataSourceConfig config,
+                                        String url, String user, String password,
+                                        Properties extraProperties) {
+        DatabaseDialect dialect = dialectRegistry.getDialect(config.getStrategy());
         DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setUrl(config.getUrl());
-        dataSource.setUsername(config.getUser());
-        dataSource.setPassword(config.getPassword());
-
-        switch (config.getStrategy().toLowerCase()) {
-            case STRATEGY_POSTGRESQL:
-                dataSource.setDriverClassName("org.postgresql.Driver");
-                log.debug("Using PostgreSQL driver for database: {}", config.getName());
-                break;
-            case STRATEGY_MY_SQL:
-                dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
-                log.debug("Using MySQL driver for database: {}", config.getName());
-                break;
-            default:
-                log.error("Unsupported database strategy: {}", config.getStrategy());
-                throw new IllegalArgumentException("Unsupported database strategy: " + config.getStrategy());
-        }
+        dataSource.setDriverClassName(dialect.getDriverClassName());
+        dataSource.setUrl(url);
+        dataSource.setUsername(user);
+        dataSource.setPassword(password);
+        Properties connectionProperties = dialect.getConnectionProperties();
+        connectionProperties.putAll(extraProperties);
+        dataSource.setConnectionProperties(connectionProperties);
+        log.debug("Using {} driver for database: {} at {}", dialect.getDriverClassName(), config.getName(), url);
         return dataSource;
     }
 
@@ -8,11 +8,29 @@ public class ApplicationConstants {
     public static final String POSTGRESQL_BASE_SCHEMA = "public";
     public static final String URL_SEPARATOR = "/";
 
+    public static final String LOAD_BALANCING_LEAST_OUTSTANDING = "least-outstanding";
+    public static final String LOAD_BALANCING_LATENCY_WEIGHTED = "latency-weighted";
+    public static final int REPLICA_HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+    public static final int REPLICA_CONNECT_TIMEOUT_SECONDS = 2;
+    public static final int REPLICA_SOCKET_TIMEOUT_SECONDS = 30;
+    public static final double REPLICA_LATENCY_SMOOTHING_FACTOR = 0.2;
+
     public static final String ID = "id";
     public static final String USERNAME = "username";
     public static final String NAME = "name";
     public static final String SURNAME = "surname";
 
-    public static final String INSERT_USER_QUERY = "INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?)";
+    public static final String DRIVER_POSTGRESQL = "org.postgresql.Driver";
+    public static final String DRIVER_MY_SQL = "com.mysql.cj.jdbc.Driver";
+    public static final int MAX_ROWS_PER_INSERT = 500;
+
+    public static final String INSERT_USER_QUERY = "INSERT INTO %s (%s, %s, %s, %s) VALUES %s";
+    public static final String INSERT_VALUES_ROW = "(?, ?, ?, ?)";
+    public static final String POSTGRESQL_COPY_USERS_QUERY = "COPY %s (%s, %s, %s, %s) FROM STDIN WITH (FORMAT csv)";
+    public static final String POSTGRESQL_REPLICATION_LAG_QUERY = "SELECT CAST(CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END AS BIGINT)";
+    public static final String MY_SQL_REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    public static final String MY_SQL_SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
     public static final String SELECT_ALL_USERS_QUERY = "SELECT %s AS id, %s AS username, %s AS name, %s AS surname FROM %s";
 }
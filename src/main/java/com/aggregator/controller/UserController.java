@@ -65,5 +65,27 @@ public class UserController {
                     .body("Failed to add user: " + e.getMessage());
         }
     }
+
+    @Operation(summary = "Add a batch of users", description = "Adds a list of users to all configured databases using bulk inserts")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Users successfully added"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @PostMapping("/add/batch")
+    public ResponseEntity<String> addUsers(@RequestBody List<UserRequest> userRequests) {
+        log.info("Received request to add {} users", userRequests.size());
+        try {
+            userRepository.addUsersToAllDatabases(userRequests);
+            log.info("{} users added successfully", userRequests.size());
+            return ResponseEntity.ok("Users added successfully to all databases");
+        } catch (Exception e) {
+            log.error("Failed to add users: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to add users: " + e.getMessage());
+        }
+    }
 }
 
@@ -0,0 +1,152 @@
+package com.aggregator.dialect;
+
+import com.aggregator.config.DataSourcePropertiesConfig;
+import com.aggregator.model.UserRequest;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.aggregator.constants.ApplicationConstants.*;
+
+/**
+ * Service provider interface describing database-specific behaviour.
+ * Each supported database strategy ("postgres", "mysql", ...) is backed by one Spring bean
+ * implementing this interface, so new databases can be added without changing
+ * the data source, migration or repository code.
+ */
+public interface DatabaseDialect {
+
+    /**
+     * Returns the strategy name this dialect is registered under.
+     *
+     * @return The database strategy, matching {@link DataSourcePropertiesConfig.DataSourceConfig#getStrategy()}.
+     */
+    String getStrategy();
+
+    /**
+     * Returns the fully qualified JDBC driver class name.
+     *
+     * @return The JDBC driver class name.
+     */
+    String getDriverClassName();
+
+    /**
+     * Returns driver-specific connection properties, such as batched insert rewriting.
+     *
+     * @return The connection properties to apply to every connection.
+     */
+    default Properties getConnectionProperties() {
+        return new Properties();
+    }
+
+    /**
+     * Returns the driver-specific connection properties bounding how long opening a connection
+     * and waiting for a socket read may take, so an unresponsive host fails fast.
+     * The default implementation applies no timeouts.
+     *
+     * @param connectTimeoutSeconds The connect timeout in seconds.
+     * @param socketTimeoutSeconds  The socket read timeout in seconds.
+     * @return The timeout connection properties.
+     */
+    default Properties getTimeoutProperties(int connectTimeoutSeconds, int socketTimeoutSeconds) {
+        return new Properties();
+    }
+
+    /**
+     * Reads how far behind its primary a read replica is.
+     * The default implementation cannot determine the lag.
+     *
+     * @param jdbcTemplate The template bound to the replica.
+     * @return The replication lag in seconds, or {@code null} if it cannot be determined.
+     */
+    default Long readReplicationLagSeconds(JdbcTemplate jdbcTemplate) {
+        return null;
+    }
+
+    /**
+     * Applies the schema settings required by Flyway for this database.
+     *
+     * @param flyway The Flyway configuration to customise.
+     * @param config The data source configuration.
+     */
+    void configureFlyway(FluentConfiguration flyway, DataSourcePropertiesConfig.DataSourceConfig config);
+
+    /**
+     * Builds a SQL SELECT query for fetching users from a database.
+     *
+     * @param config The database configuration.
+     * @return The SQL SELECT query.
+     */
+    default String buildSelectQuery(DataSourcePropertiesConfig.DataSourceConfig config) {
+        Map<String, String> mapping = config.getMapping();
+        return String.format(SELECT_ALL_USERS_QUERY,
+                mapping.get(ID),
+                mapping.get(USERNAME),
+                mapping.get(NAME),
+                mapping.get(SURNAME),
+                config.getTable()
+        );
+    }
+
+    /**
+     * Builds a SQL INSERT query for adding a user to a database.
+     *
+     * @param config The database configuration.
+     * @return The SQL INSERT query.
+     */
+    default String buildInsertQuery(DataSourcePropertiesConfig.DataSourceConfig config) {
+        return buildBatchInsertQuery(config, 1);
+    }
+
+    /**
+     * Builds a multi-row SQL INSERT query, inserting {@code rows} users in a single statement.
+     * Parameters are expected in row order: id, username, name, surname.
+     *
+     * @param config The database configuration.
+     * @param rows   The number of rows in the VALUES clause.
+     * @return The SQL INSERT query.
+     */
+    default String buildBatchInsertQuery(DataSourcePropertiesConfig.DataSourceConfig config, int rows) {
+        Map<String, String> mapping = config.getMapping();
+        String values = IntStream.range(0, rows)
+                .mapToObj(i -> INSERT_VALUES_ROW)
+                .collect(Collectors.joining(", "));
+        return String.format(INSERT_USER_QUERY,
+                config.getTable(),
+                mapping.get(ID),
+                mapping.get(USERNAME),
+                mapping.get(NAME),
+                mapping.get(SURNAME),
+                values
+        );
+    }
+
+    /**
+     * Inserts the given users in as few round trips as possible.
+     * Callers run this inside a transaction on the template's data source,
+     * so implementations may split the batch into several statements.
+     * The default implementation sends multi-row INSERT statements of at most
+     * {@link com.aggregator.constants.ApplicationConstants#MAX_ROWS_PER_INSERT} rows each.
+     *
+     * @param jdbcTemplate The template bound to the target data source.
+     * @param config       The database configuration.
+     * @param users        The users to insert.
+     */
+    default void insertUsers(JdbcTemplate jdbcTemplate,
+                             DataSourcePropertiesConfig.DataSourceConfig config,
+                             List<UserRequest> users) {
+        for (int from = 0; from < users.size(); from += MAX_ROWS_PER_INSERT) {
+            List<UserRequest> chunk = users.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, users.size()));
+            Object[] args = chunk.stream()
+                    .flatMap(user -> Stream.of(user.getId(), user.getUsername(), user.getName(), user.getSurname()))
+                    .toArray();
+            jdbcTemplate.update(buildBatchInsertQuery(config, chunk.size()), args);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.aggregator.dialect;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of all {@link DatabaseDialect} beans, keyed by their strategy name.
+ * Supporting a new database only requires registering another {@link DatabaseDialect} bean.
+ */
+@Slf4j
+@Component
+public class DatabaseDialectRegistry {
+
+    private final Map<String, DatabaseDialect> dialects;
+
+    /**
+     * Constructs a new {@link DatabaseDialectRegistry} from the available dialects.
+     *
+     * @param dialects All {@link DatabaseDialect} beans in the application context.
+     */
+    public DatabaseDialectRegistry(List<DatabaseDialect> dialects) {
+        this.dialects = dialects.stream()
+                .collect(Collectors.toMap(dialect -> dialect.getStrategy().toLowerCase(), Function.identity()));
+        log.info("Registered database dialects: {}", this.dialects.keySet());
+    }
+
+    /**
+     * Returns the dialect for the given database strategy.
+     *
+     * @param strategy The database strategy ("postgres", "mysql", ...).
+     * @return The matching {@link DatabaseDialect}.
+     * @throws IllegalArgumentException If the database strategy is unsupported.
+     */
+    public DatabaseDialect getDialect(String strategy) {
+        return Optional.ofNullable(strategy)
+                .map(name -> dialects.get(name.toLowerCase()))
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported database strategy: " + strategy));
+    }
+}
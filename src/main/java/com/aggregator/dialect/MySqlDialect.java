@@ -0,0 +1,84 @@
+package com.aggregator.dialect;
+
+import com.aggregator.config.DataSourcePropertiesConfig;
+import com.aggregator.model.UserRequest;
+import com.aggregator.util.StringUtil;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static com.aggregator.constants.ApplicationConstants.*;
+
+/**
+ * {@link DatabaseDialect} for MySQL.
+ * Relies on the Connector/J {@code rewriteBatchedStatements} option to turn JDBC batches
+ * into multi-row INSERT statements.
+ */
+@Component
+public class MySqlDialect implements DatabaseDialect {
+
+    @Override
+    public String getStrategy() {
+        return STRATEGY_MY_SQL;
+    }
+
+    @Override
+    public String getDriverClassName() {
+        return DRIVER_MY_SQL;
+    }
+
+    @Override
+    public Properties getConnectionProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("rewriteBatchedStatements", "true");
+        return properties;
+    }
+
+    /**
+     * Connector/J expects both timeouts in milliseconds.
+     */
+    @Override
+    public Properties getTimeoutProperties(int connectTimeoutSeconds, int socketTimeoutSeconds) {
+        Properties properties = new Properties();
+        properties.setProperty("connectTimeout", String.valueOf(TimeUnit.SECONDS.toMillis(connectTimeoutSeconds)));
+        properties.setProperty("socketTimeout", String.valueOf(TimeUnit.SECONDS.toMillis(socketTimeoutSeconds)));
+        return properties;
+    }
+
+    /**
+     * Reads {@code Seconds_Behind_Source} from {@code SHOW REPLICA STATUS},
+     * which requires the {@code REPLICATION CLIENT} privilege.
+     * A server that is not a replica reports no lag.
+     */
+    @Override
+    public Long readReplicationLagSeconds(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.query(MY_SQL_REPLICA_STATUS_QUERY, rs -> {
+            if (!rs.next()) {
+                return 0L;
+            }
+            long lag = rs.getLong(MY_SQL_SECONDS_BEHIND_SOURCE);
+            return rs.wasNull() ? null : lag;
+        });
+    }
+
+    @Override
+    public void configureFlyway(FluentConfiguration flyway, DataSourcePropertiesConfig.DataSourceConfig config) {
+        flyway.defaultSchema(StringUtil.extractDatabaseName(config.getUrl()));
+    }
+
+    @Override
+    public void insertUsers(JdbcTemplate jdbcTemplate,
+                            DataSourcePropertiesConfig.DataSourceConfig config,
+                            List<UserRequest> users) {
+        jdbcTemplate.batchUpdate(buildInsertQuery(config), users, MAX_ROWS_PER_INSERT, (ps, user) -> {
+            ps.setString(1, user.getId());
+            ps.setString(2, user.getUsername());
+            ps.setString(3, user.getName());
+            ps.setString(4, user.getSurname());
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.aggregator.dialect;
+
+import com.aggregator.config.DataSourcePropertiesConfig;
+import com.aggregator.model.UserRequest;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.aggregator.constants.ApplicationConstants.*;
+
+/**
+ * {@link DatabaseDialect} for PostgreSQL.
+ * Multi-user inserts are streamed through {@code COPY ... FROM STDIN}
+ * instead of individual INSERT statements.
+ */
+@Component
+public class PostgresDialect implements DatabaseDialect {
+
+    @Override
+    public String getStrategy() {
+        return STRATEGY_POSTGRESQL;
+    }
+
+    @Override
+    public String getDriverClassName() {
+        return DRIVER_POSTGRESQL;
+    }
+
+    /**
+     * pgjdbc expects both timeouts in seconds.
+     */
+    @Override
+    public Properties getTimeoutProperties(int connectTimeoutSeconds, int socketTimeoutSeconds) {
+        Properties properties = new Properties();
+        properties.setProperty("connectTimeout", String.valueOf(connectTimeoutSeconds));
+        properties.setProperty("socketTimeout", String.valueOf(socketTimeoutSeconds));
+        return properties;
+    }
+
+    @Override
+    public Long readReplicationLagSeconds(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject(POSTGRESQL_REPLICATION_LAG_QUERY, Long.class);
+    }
+
+    @Override
+    public void configureFlyway(FluentConfiguration flyway, DataSourcePropertiesConfig.DataSourceConfig config) {
+        flyway.schemas(POSTGRESQL_BASE_SCHEMA);
+    }
+
+    @Override
+    public void insertUsers(JdbcTemplate jdbcTemplate,
+                            DataSourcePropertiesConfig.DataSourceConfig config,
+                            List<UserRequest> users) {
+        Map<String, String> mapping = config.getMapping();
+        String copyQuery = String.format(POSTGRESQL_COPY_USERS_QUERY,
+                config.getTable(),
+                mapping.get(ID),
+                mapping.get(USERNAME),
+                mapping.get(NAME),
+                mapping.get(SURNAME)
+        );
+        String rows = users.stream()
+                .map(this::toCsvRow)
+                .collect(Collectors.joining());
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(copyQuery, new StringReader(rows));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to stream users to " + config.getTable(), e);
+            }
+        });
+    }
+
+    /**
+     * Converts a user to a CSV line understood by {@code COPY ... WITH (FORMAT csv)}.
+     * Values are always quoted so that an empty string is not read as {@code NULL}.
+     *
+     * @param user The user to convert.
+     * @return The CSV line, terminated by a newline.
+     */
+    private String toCsvRow(UserRequest user) {
+        return Stream.of(user.getId(), user.getUsername(), user.getName(), user.getSurname())
+                .map(value -> value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"")
+                .collect(Collectors.joining(",", "", "\n"));
+    }
+}
@@ -1,13 +1,18 @@
 package com.aggregator.repository;
 
 import com.aggregator.config.DataSourcePropertiesConfig;
+import com.aggregator.dialect.DatabaseDialect;
+import com.aggregator.dialect.DatabaseDialectRegistry;
 import com.aggregator.model.UserDto;
 import com.aggregator.model.UserRequest;
+import com.aggregator.routing.ReadReplicaRouter;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
 import java.util.List;
@@ -26,30 +31,41 @@ import static com.aggregator.constants.ApplicationConstants.*;
 public class UserRepository {
     private final Map<String, DataSource> dataSources;
     private final Map<String, DataSourcePropertiesConfig.DataSourceConfig> dataSourceConfigMap;
+    private final DatabaseDialectRegistry dialectRegistry;
+    private final ReadReplicaRouter readReplicaRouter;
 
     /**
      * Constructs a new {@link UserRepository} with the provided data sources and configurations.
      *
-     * @param dataSources A map of data sources.
-     * @param properties  The data source configurations.
+     * @param dataSources       A map of primary data sources.
+     * @param properties        The data source configurations.
+     * @param dialectRegistry   The registry resolving the {@link DatabaseDialect} of each data source.
+     * @param readReplicaRouter The router spreading reads across read replicas.
      */
     @Autowired
-    public UserRepository(Map<String, DataSource> dataSources, DataSourcePropertiesConfig properties) {
+    public UserRepository(Map<String, DataSource> dataSources,
+                          DataSourcePropertiesConfig properties,
+                          DatabaseDialectRegistry dialectRegistry,
+                          ReadReplicaRouter readReplicaRouter) {
         this.dataSources = dataSources;
         this.dataSourceConfigMap = properties.getDataSources().stream()
                 .collect(Collectors.toMap(DataSourcePropertiesConfig.DataSourceConfig::getName, config -> config));
+        this.dialectRegistry = dialectRegistry;
+        this.readReplicaRouter = readReplicaRouter;
         log.info("UserRepository initialized with {} data sources", dataSources.size());
     }
 
     /**
      * Fetches all users from all configured data sources.
+     * Reads are served by a read replica of each data source when one is available.
      *
      * @return A list of {@link UserDto} objects representing the users.
      */
     public List<UserDto> getAllUsers() {
         log.info("Fetching all users from databases");
         return dataSources.entrySet().stream()
-                .flatMap(entry -> fetchUsersFromDataSource(entry.getKey(), entry.getValue()).stream())
+                .flatMap(entry -> readReplicaRouter.executeRead(entry.getKey(), entry.getValue(),
+                        dataSource -> fetchUsersFromDataSource(entry.getKey(), dataSource)).stream())
                 .collect(Collectors.toList());
     }
 
@@ -62,7 +78,7 @@ public class UserRepository {
      */
     private List<UserDto> fetchUsersFromDataSource(String dbName, DataSource dataSource) {
         DataSourcePropertiesConfig.DataSourceConfig config = getConfigForDatabase(dbName);
-        String query = buildSelectQuery(config);
+        String query = dialectRegistry.getDialect(config.getStrategy()).buildSelectQuery(config);
         return new JdbcTemplate(dataSource).query(query, (rs, rowNum) -> new UserDto(
                 rs.getString(ID),
                 rs.getString(USERNAME),
@@ -93,7 +109,7 @@ public class UserRepository {
      */
     private void addUserToDataSource(String dbName, DataSource dataSource, UserRequest userRequest) {
         DataSourcePropertiesConfig.DataSourceConfig config = getConfigForDatabase(dbName);
-        String query = buildInsertQuery(config);
+        String query = dialectRegistry.getDialect(config.getStrategy()).buildInsertQuery(config);
         new JdbcTemplate(dataSource).update(query,
                 userRequest.getId(),
                 userRequest.getUsername(),
@@ -104,46 +120,44 @@ public class UserRepository {
     }
 
     /**
-     * Retrieves the configuration for a specific database.
+     * Adds a batch of users to all configured data sources,
+     * using the bulk insert path of each database dialect.
+     * The batch is inserted atomically per database.
      *
-     * @param dbName The name of the database.
-     * @return The configuration for the database.
-     * @throws RuntimeException If the configuration is not found.
+     * @param userRequests The users to add.
      */
-    private DataSourcePropertiesConfig.DataSourceConfig getConfigForDatabase(String dbName) {
-        return Optional.ofNullable(dataSourceConfigMap.get(dbName))
-                .orElseThrow(() -> new RuntimeException("Config not found for " + dbName));
+    public void addUsersToAllDatabases(List<UserRequest> userRequests) {
+        log.info("Adding {} users to all databases", userRequests.size());
+        for (Map.Entry<String, DataSource> entry : dataSources.entrySet()) {
+            addUsersToDataSource(entry.getKey(), entry.getValue(), userRequests);
+        }
     }
 
     /**
-     * Builds a SQL SELECT query for fetching users from a database.
+     * Adds a batch of users to a specific data source in a single local transaction,
+     * so a failing row leaves none of the batch behind regardless of how the dialect splits it.
      *
-     * @param config The database configuration.
-     * @return The SQL SELECT query.
+     * @param dbName       The name of the database.
+     * @param dataSource   The data source to add the users to.
+     * @param userRequests The users to add.
      */
-    private String buildSelectQuery(DataSourcePropertiesConfig.DataSourceConfig config) {
-        return String.format(SELECT_ALL_USERS_QUERY,
-                config.getMapping().get(ID),
-                config.getMapping().get(USERNAME),
-                config.getMapping().get(NAME),
-                config.getMapping().get(SURNAME),
-                config.getTable()
-        );
+    private void addUsersToDataSource(String dbName, DataSource dataSource, List<UserRequest> userRequests) {
+        DataSourcePropertiesConfig.DataSourceConfig config = getConfigForDatabase(dbName);
+        DatabaseDialect dialect = dialectRegistry.getDialect(config.getStrategy());
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status ->
+                dialect.insertUsers(new JdbcTemplate(dataSource), config, userRequests));
+        log.info("{} users were successfully added to database: {}", userRequests.size(), dbName);
     }
 
     /**
-     * Builds a SQL INSERT query for adding a user to a database.
+     * Retrieves the configuration for a specific database.
      *
-     * @param config The database configuration.
-     * @return The SQL INSERT query.
+     * @param dbName The name of the database.
+     * @return The configuration for the database.
+     * @throws RuntimeException If the configuration is not found.
      */
-    private String buildInsertQuery(DataSourcePropertiesConfig.DataSourceConfig config) {
-        return String.format(INSERT_USER_QUERY,
-                config.getTable(),
-                config.getMapping().get(ID),
-                config.getMapping().get(USERNAME),
-                config.getMapping().get(NAME),
-                config.getMapping().get(SURNAME)
-        );
+    private DataSourcePropertiesConfig.DataSourceConfig getConfigForDatabase(String dbName) {
+        return Optional.ofNullable(dataSourceConfigMap.get(dbName))
+                .orElseThrow(() -> new RuntimeException("Config not found for " + dbName));
     }
 }
@@ -0,0 +1,35 @@
+package com.aggregator.routing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ReplicaLoadBalancer} choosing replicas at random, weighted by the inverse of their
+ * smoothed latency, so faster replicas receive proportionally more requests.
+ * Replicas without latency samples get the highest weight so they are probed quickly.
+ */
+public class LatencyWeightedLoadBalancer implements ReplicaLoadBalancer {
+
+    /**
+     * Latency floor in milliseconds, preventing a single very fast replica from taking all requests.
+     */
+    private static final double MIN_LATENCY_MILLIS = 1.0;
+
+    @Override
+    public ReplicaNode select(List<ReplicaNode> candidates) {
+        double[] weights = new double[candidates.size()];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1.0 / Math.max(candidates.get(i).getLatencyMillis(), MIN_LATENCY_MILLIS);
+            total += weights[i];
+        }
+        double point = ThreadLocalRandom.current().nextDouble(total);
+        for (int i = 0; i < weights.length; i++) {
+            point -= weights[i];
+            if (point < 0) {
+                return candidates.get(i);
+            }
+        }
+        return candidates.get(weights.length - 1);
+    }
+}
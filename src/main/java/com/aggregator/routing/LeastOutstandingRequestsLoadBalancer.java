@@ -0,0 +1,28 @@
+package com.aggregator.routing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ReplicaLoadBalancer} sending each request to the replica with the fewest in-flight requests.
+ * The scan starts at a random position so that ties are spread evenly.
+ */
+public class LeastOutstandingRequestsLoadBalancer implements ReplicaLoadBalancer {
+
+    @Override
+    public ReplicaNode select(List<ReplicaNode> candidates) {
+        int size = candidates.size();
+        int start = ThreadLocalRandom.current().nextInt(size);
+        ReplicaNode selected = null;
+        int fewest = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            ReplicaNode node = candidates.get((start + i) % size);
+            int outstanding = node.getOutstandingRequests();
+            if (outstanding < fewest) {
+                selected = node;
+                fewest = outstanding;
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,150 @@
+package com.aggregator.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.aggregator.constants.ApplicationConstants.REPLICA_HEALTH_CHECK_TIMEOUT_SECONDS;
+
+/**
+ * Routes read queries of each logical data source to one of its read replicas.
+ * Falls back to the primary when a data source has no eligible replica,
+ * or when the selected replica fails. Replica health and replication lag are refreshed periodically.
+ */
+@Slf4j
+public class ReadReplicaRouter {
+
+    private final Map<String, ReplicaPool> replicaPools;
+
+    /**
+     * Constructs a new {@link ReadReplicaRouter}.
+     *
+     * @param replicaPools The replica pools, keyed by data source name.
+     */
+    public ReadReplicaRouter(Map<String, ReplicaPool> replicaPools) {
+        this.replicaPools = replicaPools;
+        log.info("ReadReplicaRouter initialized with replicas for: {}", replicaPools.keySet());
+    }
+
+    /**
+     * Executes a read against a replica of the given data source, or against its primary
+     * if no replica is eligible or the selected replica cannot be reached.
+     * Other failures, such as invalid SQL, would fail on every node and are rethrown as is.
+     *
+     * @param dbName  The name of the database.
+     * @param primary The primary data source of the database.
+     * @param reader  The read to execute.
+     * @param <T>     The result type.
+     * @return The result of the read.
+     */
+    public <T> T executeRead(String dbName, DataSource primary, Function<DataSource, T> reader) {
+        ReplicaPool pool = replicaPools.get(dbName);
+        if (pool == null) {
+            return reader.apply(primary);
+        }
+        List<ReplicaNode> candidates = pool.getEligibleReplicas();
+        if (candidates.isEmpty()) {
+            log.debug("No eligible replica for database: {}, reading from primary", dbName);
+            return reader.apply(primary);
+        }
+
+        ReplicaNode replica = pool.getLoadBalancer().select(candidates);
+        replica.acquire();
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = reader.apply(replica.getDataSource());
+        } catch (TransientDataAccessException | DataAccessResourceFailureException
+                 | RecoverableDataAccessException e) {
+            replica.abort();
+            log.warn("Read from replica {} of database: {} failed, reading from primary: {}",
+                    replica.getUrl(), dbName, e.getMessage());
+            replica.setHealthy(false);
+            return reader.apply(primary);
+        } catch (RuntimeException e) {
+            replica.abort();
+            throw e;
+        }
+        replica.release(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Refreshes the health and replication lag of all replicas.
+     * Runs periodically, with the interval taken from {@code aggregator.replica-health-check-interval-ms}.
+     */
+    @Scheduled(fixedDelayString = "${aggregator.replica-health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        replicaPools.forEach((dbName, pool) -> pool.getReplicas()
+                .forEach(replica -> checkReplica(dbName, pool, replica)));
+    }
+
+    /**
+     * Checks a single replica, marking it unhealthy if it cannot be reached.
+     * The replication lag is only read when the pool enforces a lag limit; if it cannot be read,
+     * the lag becomes unknown, which keeps the replica out of rotation without marking it unhealthy.
+     *
+     * @param dbName  The name of the database.
+     * @param pool    The pool the replica belongs to.
+     * @param replica The replica to check.
+     */
+    private void checkReplica(String dbName, ReplicaPool pool, ReplicaNode replica) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.getDataSource());
+        jdbcTemplate.setQueryTimeout(REPLICA_HEALTH_CHECK_TIMEOUT_SECONDS);
+        boolean healthy;
+        try {
+            healthy = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.isValid(REPLICA_HEALTH_CHECK_TIMEOUT_SECONDS)));
+        } catch (DataAccessException e) {
+            log.debug("Health check of replica {} failed: {}", replica.getUrl(), e.getMessage());
+            healthy = false;
+        }
+        updateHealth(dbName, replica, healthy);
+        if (healthy && pool.getMaxReplicationLagSeconds() != null) {
+            replica.setReplicationLagSeconds(readReplicationLag(dbName, pool, replica, jdbcTemplate));
+        }
+    }
+
+    /**
+     * Reads the replication lag of a reachable replica.
+     *
+     * @param dbName       The name of the database.
+     * @param pool         The pool the replica belongs to.
+     * @param replica      The replica to check.
+     * @param jdbcTemplate The template bound to the replica.
+     * @return The replication lag in seconds, or {@code null} if it cannot be read.
+     */
+    private Long readReplicationLag(String dbName, ReplicaPool pool, ReplicaNode replica, JdbcTemplate jdbcTemplate) {
+        try {
+            return pool.getDialect().readReplicationLagSeconds(jdbcTemplate);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read replication lag of replica {} of database: {}: {}",
+                    replica.getUrl(), dbName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Updates the health flag of a replica, logging transitions.
+     *
+     * @param dbName  The name of the database.
+     * @param replica The replica to update.
+     * @param healthy Whether the replica is healthy.
+     */
+    private void updateHealth(String dbName, ReplicaNode replica, boolean healthy) {
+        if (replica.isHealthy() != healthy) {
+            log.info("Replica {} of database: {} is now {}", replica.getUrl(), dbName, healthy ? "healthy" : "unhealthy");
+        }
+        replica.setHealthy(healthy);
+    }
+}
@@ -0,0 +1,37 @@
+package com.aggregator.routing;
+
+import java.util.List;
+
+import static com.aggregator.constants.ApplicationConstants.LOAD_BALANCING_LATENCY_WEIGHTED;
+import static com.aggregator.constants.ApplicationConstants.LOAD_BALANCING_LEAST_OUTSTANDING;
+
+/**
+ * Strategy choosing the read replica that serves the next request.
+ */
+public interface ReplicaLoadBalancer {
+
+    /**
+     * Selects one of the candidate replicas.
+     *
+     * @param candidates The eligible replicas, never empty.
+     * @return The selected replica.
+     */
+    ReplicaNode select(List<ReplicaNode> candidates);
+
+    /**
+     * Creates the load balancer for the given strategy name.
+     *
+     * @param strategy The load balancing strategy ("least-outstanding", "latency-weighted").
+     * @return The matching {@link ReplicaLoadBalancer}.
+     * @throws IllegalArgumentException If the load balancing strategy is unsupported.
+     */
+    static ReplicaLoadBalancer forStrategy(String strategy) {
+        if (strategy == null || LOAD_BALANCING_LEAST_OUTSTANDING.equalsIgnoreCase(strategy)) {
+            return new LeastOutstandingRequestsLoadBalancer();
+        }
+        if (LOAD_BALANCING_LATENCY_WEIGHTED.equalsIgnoreCase(strategy)) {
+            return new LatencyWeightedLoadBalancer();
+        }
+        throw new IllegalArgumentException("Unsupported load balancing strategy: " + strategy);
+    }
+}
@@ -0,0 +1,130 @@
+package com.aggregator.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.aggregator.constants.ApplicationConstants.REPLICA_LATENCY_SMOOTHING_FACTOR;
+
+/**
+ * A single read replica together with the runtime statistics used for load balancing:
+ * the number of in-flight requests, the smoothed request latency, its health and replication lag.
+ */
+public class ReplicaNode {
+    @Getter
+    private final String url;
+    @Getter
+    private final DataSource dataSource;
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+
+    /**
+     * Bits of the exponentially weighted moving average of the request latency in milliseconds,
+     * as produced by {@link Double#doubleToRawLongBits(double)}. Zero until the first request completes.
+     */
+    private final AtomicLong latencyMillisBits = new AtomicLong();
+
+    @Getter
+    private volatile boolean healthy = true;
+
+    /**
+     * The last observed replication lag in seconds, or {@code null} if unknown.
+     */
+    @Getter
+    @Setter
+    private volatile Long replicationLagSeconds;
+
+    /**
+     * Constructs a new {@link ReplicaNode}.
+     *
+     * @param url        The JDBC URL of the replica, used for logging.
+     * @param dataSource The data source connected to the replica.
+     */
+    public ReplicaNode(String url, DataSource dataSource) {
+        this.url = url;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Returns the number of requests currently running on this replica.
+     *
+     * @return The number of in-flight requests.
+     */
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+
+    /**
+     * Returns the smoothed request latency of this replica.
+     *
+     * @return The latency in milliseconds, or {@code 0} if no request has completed yet.
+     */
+    public double getLatencyMillis() {
+        return Double.longBitsToDouble(latencyMillisBits.get());
+    }
+
+    /**
+     * Updates the health of this replica.
+     * A replica recovering from an unhealthy state starts with a fresh latency average,
+     * so samples taken while it was failing do not keep it starved.
+     *
+     * @param healthy Whether the replica is healthy.
+     */
+    public void setHealthy(boolean healthy) {
+        if (healthy && !this.healthy) {
+            latencyMillisBits.set(0);
+        }
+        this.healthy = healthy;
+    }
+
+    /**
+     * Registers the start of a request on this replica.
+     */
+    public void acquire() {
+        outstandingRequests.incrementAndGet();
+    }
+
+    /**
+     * Registers the end of a request on this replica and updates its smoothed latency.
+     *
+     * @param elapsedNanos The duration of the request in nanoseconds.
+     */
+    public void release(long elapsedNanos) {
+        outstandingRequests.decrementAndGet();
+        double elapsedMillis = (double) elapsedNanos / TimeUnit.MILLISECONDS.toNanos(1);
+        latencyMillisBits.updateAndGet(bits -> {
+            double previous = Double.longBitsToDouble(bits);
+            double updated = previous == 0
+                    ? elapsedMillis
+                    : previous + REPLICA_LATENCY_SMOOTHING_FACTOR * (elapsedMillis - previous);
+            return Double.doubleToRawLongBits(updated);
+        });
+    }
+
+    /**
+     * Registers the end of a failed request on this replica without recording its latency.
+     */
+    public void abort() {
+        outstandingRequests.decrementAndGet();
+    }
+
+    /**
+     * Checks whether this replica may serve reads.
+     *
+     * @param maxReplicationLagSeconds The allowed replication lag in seconds, or {@code null} for no limit.
+     * @return {@code true} if the replica is healthy and within the lag limit.
+     */
+    public boolean isEligible(Long maxReplicationLagSeconds) {
+        if (!healthy) {
+            return false;
+        }
+        if (maxReplicationLagSeconds == null) {
+            return true;
+        }
+        Long lag = replicationLagSeconds;
+        return lag != null && lag <= maxReplicationLagSeconds;
+    }
+}
@@ -0,0 +1,34 @@
+package com.aggregator.routing;
+
+import com.aggregator.dialect.DatabaseDialect;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The read replicas of one logical data source and the settings used to route reads to them.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReplicaPool {
+    private final List<ReplicaNode> replicas;
+    private final ReplicaLoadBalancer loadBalancer;
+    private final DatabaseDialect dialect;
+
+    /**
+     * The allowed replication lag in seconds, or {@code null} for no limit.
+     */
+    private final Long maxReplicationLagSeconds;
+
+    /**
+     * Returns the replicas currently allowed to serve reads.
+     *
+     * @return The healthy replicas within the lag limit.
+     */
+    public List<ReplicaNode> getEligibleReplicas() {
+        return replicas.stream()
+                .filter(replica -> replica.isEligible(maxReplicationLagSeconds))
+                .toList();
+    }
+}
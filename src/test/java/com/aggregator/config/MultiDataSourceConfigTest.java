@@ -0,0 +1,38 @@
+package com.aggregator.config;
+
+import com.aggregator.dialect.DatabaseDialectRegistry;
+import com.aggregator.dialect.MySqlDialect;
+import com.aggregator.dialect.PostgresDialect;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link MultiDataSourceConfig}.
+ */
+class MultiDataSourceConfigTest {
+
+    @Test
+    void testRejectsUnknownLoadBalancingStrategy() {
+        DataSourcePropertiesConfig.ReplicaConfig replica = new DataSourcePropertiesConfig.ReplicaConfig();
+        replica.setUrl("jdbc:postgresql://replica:5432/userdb");
+
+        DataSourcePropertiesConfig.DataSourceConfig config = new DataSourcePropertiesConfig.DataSourceConfig();
+        config.setName("data-base-1");
+        config.setStrategy("postgres");
+        config.setUrl("jdbc:postgresql://primary:5432/userdb");
+        config.setLoadBalancing("round-robin");
+        config.setReplicas(List.of(replica));
+
+        DataSourcePropertiesConfig properties = new DataSourcePropertiesConfig();
+        properties.setDataSources(List.of(config));
+        MultiDataSourceConfig multiDataSourceConfig = new MultiDataSourceConfig(properties,
+                new DatabaseDialectRegistry(List.of(new PostgresDialect(), new MySqlDialect())));
+
+        assertThatThrownBy(multiDataSourceConfig::readReplicaRouter)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported load balancing strategy: round-robin");
+    }
+}
@@ -1,12 +1,15 @@
 package com.aggregator.controller;
 
 import com.aggregator.config.DataSourcePropertiesConfig;
+import com.aggregator.model.UserRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -19,10 +22,15 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -56,6 +64,9 @@ public class UserControllerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @DynamicPropertySource
     static void configureTestDatabases(DynamicPropertyRegistry registry) {
         configureDatabase(registry, "data-base-1",
@@ -158,6 +169,59 @@ public class UserControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].surname").value("Ivko"));
     }
 
+    @Test
+    void testAddUsersBatch() throws Exception {
+        List<UserRequest> users = List.of(
+                new UserRequest("batch-1", "quoted\"login", "Smith, Jr.", "O'Brien"),
+                new UserRequest("batch-2", "multi\nline", "", null),
+                new UserRequest("batch-3", "back\\slash", "\"\"", ","));
+        try {
+            mockMvc.perform(post("/api/v1/users/add/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(users)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("Users added successfully to all databases"));
+
+            for (DataSourcePropertiesConfig.DataSourceConfig config : dataSourcePropertiesConfig.getDataSources()) {
+                assertSoftly(softly -> softly.assertThat(fetchUsers(config, users))
+                        .as("Users stored in %s", config.getName())
+                        .containsExactlyInAnyOrderElementsOf(users));
+            }
+        } finally {
+            dataSourcePropertiesConfig.getDataSources().forEach(config -> deleteUsers(config, users));
+        }
+    }
+
+    @Test
+    void testAddUsersBatchIsAtomicPerDatabase() throws Exception {
+        List<UserRequest> users = new ArrayList<>(IntStream.range(0, 700)
+                .mapToObj(i -> new UserRequest("atomic-" + i, "login" + i, "name" + i, "surname" + i))
+                .toList());
+        users.add(users.get(0));
+        try {
+            mockMvc.perform(post("/api/v1/users/add/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(users)))
+                    .andExpect(status().isInternalServerError());
+
+            for (DataSourcePropertiesConfig.DataSourceConfig config : dataSourcePropertiesConfig.getDataSources()) {
+                assertSoftly(softly -> softly.assertThat(fetchUsers(config, users))
+                        .as("Users stored in %s", config.getName())
+                        .isEmpty());
+            }
+        } finally {
+            dataSourcePropertiesConfig.getDataSources().forEach(config -> deleteUsers(config, users));
+        }
+    }
+
+    @Test
+    void testFlywayMigratesIntoDialectSchema() {
+        assertSoftly(softly -> {
+            softly.assertThat(countFlywayHistoryTables("data-base-1", "public")).isEqualTo(1);
+            softly.assertThat(countFlywayHistoryTables("data-base-2", MYSQL.getDatabaseName())).isEqualTo(1);
+        });
+    }
+
     private void assertDatabaseConfig(DataSourcePropertiesConfig.DataSourceConfig config,
                                       String expectedName,
                                       String expectedStrategy,
@@ -183,6 +247,33 @@ public class UserControllerIntegrationTest {
         });
     }
 
+    private List<UserRequest> fetchUsers(DataSourcePropertiesConfig.DataSourceConfig config, List<UserRequest> users) {
+        Map<String, String> mapping = config.getMapping();
+        String query = String.format("SELECT %s, %s, %s, %s FROM %s WHERE %s IN (%s)",
+                mapping.get("id"), mapping.get("username"), mapping.get("name"), mapping.get("surname"),
+                config.getTable(), mapping.get("id"), placeholders(users.size()));
+        return new JdbcTemplate(dataSources.get(config.getName())).query(query,
+                (rs, rowNum) -> new UserRequest(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                users.stream().map(UserRequest::getId).toArray());
+    }
+
+    private void deleteUsers(DataSourcePropertiesConfig.DataSourceConfig config, List<UserRequest> users) {
+        String query = String.format("DELETE FROM %s WHERE %s IN (%s)",
+                config.getTable(), config.getMapping().get("id"), placeholders(users.size()));
+        new JdbcTemplate(dataSources.get(config.getName()))
+                .update(query, users.stream().map(UserRequest::getId).toArray());
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private Integer countFlywayHistoryTables(String dbName, String schema) {
+        return new JdbcTemplate(dataSources.get(dbName)).queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = ? AND table_name = ?",
+                Integer.class, schema, "flyway_schema_history");
+    }
+
     private void checkDatabaseConnection(String dbName) throws SQLException {
         DataSource dataSource = dataSources.get(dbName);
         Assertions.assertNotNull(dataSource);
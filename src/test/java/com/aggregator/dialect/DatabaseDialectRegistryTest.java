@@ -0,0 +1,37 @@
+package com.aggregator.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link DatabaseDialectRegistry}.
+ */
+class DatabaseDialectRegistryTest {
+
+    private final DatabaseDialectRegistry registry =
+            new DatabaseDialectRegistry(List.of(new PostgresDialect(), new MySqlDialect()));
+
+    @Test
+    void testGetDialectIgnoresCase() {
+        assertThat(registry.getDialect("postgres")).isInstanceOf(PostgresDialect.class);
+        assertThat(registry.getDialect("MySQL")).isInstanceOf(MySqlDialect.class);
+    }
+
+    @Test
+    void testGetDialectRejectsUnknownStrategy() {
+        assertThatThrownBy(() -> registry.getDialect("oracle"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported database strategy: oracle");
+    }
+
+    @Test
+    void testGetDialectRejectsMissingStrategy() {
+        assertThatThrownBy(() -> registry.getDialect(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported database strategy: null");
+    }
+}
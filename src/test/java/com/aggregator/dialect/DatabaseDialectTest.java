@@ -0,0 +1,73 @@
+package com.aggregator.dialect;
+
+import com.aggregator.config.DataSourcePropertiesConfig;
+import com.aggregator.model.UserRequest;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.aggregator.constants.ApplicationConstants.MAX_ROWS_PER_INSERT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the default methods of {@link DatabaseDialect}, run against an in-memory H2 database.
+ */
+class DatabaseDialectTest {
+
+    private final DatabaseDialect dialect = new DatabaseDialect() {
+        @Override
+        public String getStrategy() {
+            return "h2";
+        }
+
+        @Override
+        public String getDriverClassName() {
+            return "org.h2.Driver";
+        }
+
+        @Override
+        public void configureFlyway(FluentConfiguration flyway, DataSourcePropertiesConfig.DataSourceConfig config) {
+        }
+    };
+
+    private DataSourcePropertiesConfig.DataSourceConfig config;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        config = new DataSourcePropertiesConfig.DataSourceConfig();
+        config.setTable("accounts");
+        config.setMapping(Map.of("id", "uid", "username", "login", "name", "first_name", "surname", "last_name"));
+
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:dialect;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS accounts");
+        jdbcTemplate.execute("CREATE TABLE accounts (uid VARCHAR(255) PRIMARY KEY, login VARCHAR(255), "
+                + "first_name VARCHAR(255), last_name VARCHAR(255))");
+    }
+
+    @Test
+    void testBuildBatchInsertQuery() {
+        assertThat(dialect.buildBatchInsertQuery(config, 2)).isEqualTo(
+                "INSERT INTO accounts (uid, login, first_name, last_name) VALUES (?, ?, ?, ?), (?, ?, ?, ?)");
+    }
+
+    @Test
+    void testInsertUsersSplitsIntoMultiRowStatements() {
+        List<UserRequest> users = IntStream.range(0, MAX_ROWS_PER_INSERT + 1)
+                .mapToObj(i -> new UserRequest(String.valueOf(i), "login" + i, "name" + i, i == 0 ? null : "surname" + i))
+                .toList();
+
+        dialect.insertUsers(jdbcTemplate, config, users);
+
+        List<UserRequest> stored = jdbcTemplate.query(dialect.buildSelectQuery(config) + " ORDER BY CAST(uid AS INT)",
+                (rs, rowNum) -> new UserRequest(rs.getString("id"), rs.getString("username"),
+                        rs.getString("name"), rs.getString("surname")));
+        assertThat(stored).containsExactlyElementsOf(users);
+    }
+}
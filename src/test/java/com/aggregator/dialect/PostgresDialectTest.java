@@ -0,0 +1,23 @@
+package com.aggregator.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PostgresDialect}.
+ */
+class PostgresDialectTest {
+
+    private final PostgresDialect dialect = new PostgresDialect();
+
+    @Test
+    void testTimeoutPropertiesAreInSeconds() {
+        Properties properties = dialect.getTimeoutProperties(2, 30);
+
+        assertThat(properties.getProperty("connectTimeout")).isEqualTo("2");
+        assertThat(properties.getProperty("socketTimeout")).isEqualTo("30");
+    }
+}
@@ -0,0 +1,150 @@
+package com.aggregator.routing;
+
+import com.aggregator.dialect.DatabaseDialect;
+import com.aggregator.dialect.PostgresDialect;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.PermissionDeniedDataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReadReplicaRouter}.
+ */
+class ReadReplicaRouterTest {
+
+    private static final String DB_NAME = "data-base-1";
+
+    private final DataSource primary = mock(DataSource.class);
+    private final ReplicaNode replica = new ReplicaNode("jdbc:test://replica", mock(DataSource.class));
+    private final Function<DataSource, String> reader = dataSource -> dataSource == primary ? "primary" : "replica";
+
+    @Test
+    void testReadsFromPrimaryWithoutReplicas() {
+        ReadReplicaRouter router = new ReadReplicaRouter(Map.of());
+
+        assertThat(router.executeRead(DB_NAME, primary, reader)).isEqualTo("primary");
+    }
+
+    @Test
+    void testReadsFromEligibleReplica() {
+        ReadReplicaRouter router = routerWithLagLimit(null);
+
+        assertThat(router.executeRead(DB_NAME, primary, reader)).isEqualTo("replica");
+        assertThat(replica.getOutstandingRequests()).isZero();
+    }
+
+    @Test
+    void testFallsBackToPrimaryWhenReplicaIsUnhealthy() {
+        replica.setHealthy(false);
+        ReadReplicaRouter router = routerWithLagLimit(null);
+
+        assertThat(router.executeRead(DB_NAME, primary, reader)).isEqualTo("primary");
+    }
+
+    @Test
+    void testFallsBackToPrimaryWhenReplicaIsLagging() {
+        replica.setReplicationLagSeconds(30L);
+        ReadReplicaRouter router = routerWithLagLimit(10L);
+
+        assertThat(router.executeRead(DB_NAME, primary, reader)).isEqualTo("primary");
+    }
+
+    @Test
+    void testFallsBackToPrimaryAndMarksReplicaUnhealthyOnFailure() {
+        ReadReplicaRouter router = routerWithLagLimit(null);
+
+        String result = router.executeRead(DB_NAME, primary, dataSource -> {
+            if (dataSource != primary) {
+                throw new DataAccessResourceFailureException("Replica is down");
+            }
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(replica.getOutstandingRequests()).isZero();
+    }
+
+    @Test
+    void testRethrowsQueryErrorsWithoutFallback() {
+        ReadReplicaRouter router = routerWithLagLimit(null);
+
+        assertThatThrownBy(() -> router.executeRead(DB_NAME, primary, dataSource -> {
+            if (dataSource == primary) {
+                throw new AssertionError("Primary must not be queried");
+            }
+            throw new BadSqlGrammarException("select", "SELECT missing FROM users", new SQLException());
+        })).isInstanceOf(BadSqlGrammarException.class);
+
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(replica.getOutstandingRequests()).isZero();
+    }
+
+    @Test
+    void testFailedReplicaReadDoesNotAffectLatency() {
+        replica.acquire();
+        replica.release(TimeUnit.MILLISECONDS.toNanos(5));
+        ReadReplicaRouter router = routerWithLagLimit(null);
+
+        router.executeRead(DB_NAME, primary, dataSource -> {
+            if (dataSource != primary) {
+                throw new DataAccessResourceFailureException("Replica is down");
+            }
+            return "primary";
+        });
+
+        assertThat(replica.getLatencyMillis()).isEqualTo(5.0);
+        assertThat(replica.getOutstandingRequests()).isZero();
+    }
+
+    @Test
+    void testHealthCheckKeepsReachableReplicaHealthyWhenLagCannotBeRead() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(replica.getDataSource().getConnection()).thenReturn(connection);
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        when(dialect.readReplicationLagSeconds(any()))
+                .thenThrow(new PermissionDeniedDataAccessException("REPLICATION CLIENT required", null));
+        replica.setHealthy(false);
+        replica.setReplicationLagSeconds(1L);
+        ReplicaPool pool = new ReplicaPool(List.of(replica), new LeastOutstandingRequestsLoadBalancer(), dialect, 10L);
+
+        new ReadReplicaRouter(Map.of(DB_NAME, pool)).checkReplicas();
+
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(replica.getReplicationLagSeconds()).isNull();
+        assertThat(replica.isEligible(10L)).isFalse();
+    }
+
+    @Test
+    void testHealthCheckMarksUnreachableReplicaUnhealthy() throws SQLException {
+        when(replica.getDataSource().getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaPool pool = new ReplicaPool(List.of(replica), new LeastOutstandingRequestsLoadBalancer(),
+                new PostgresDialect(), null);
+
+        new ReadReplicaRouter(Map.of(DB_NAME, pool)).checkReplicas();
+
+        assertThat(replica.isHealthy()).isFalse();
+    }
+
+    private ReadReplicaRouter routerWithLagLimit(Long maxReplicationLagSeconds) {
+        ReplicaPool pool = new ReplicaPool(List.of(replica), new LeastOutstandingRequestsLoadBalancer(),
+                new PostgresDialect(), maxReplicationLagSeconds);
+        return new ReadReplicaRouter(Map.of(DB_NAME, pool));
+    }
+}
@@ -0,0 +1,70 @@
+package com.aggregator.routing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the {@link ReplicaLoadBalancer} implementations.
+ */
+class ReplicaLoadBalancerTest {
+
+    @Test
+    void testForStrategy() {
+        assertThat(ReplicaLoadBalancer.forStrategy(null)).isInstanceOf(LeastOutstandingRequestsLoadBalancer.class);
+        assertThat(ReplicaLoadBalancer.forStrategy("least-outstanding"))
+                .isInstanceOf(LeastOutstandingRequestsLoadBalancer.class);
+        assertThat(ReplicaLoadBalancer.forStrategy("LATENCY-WEIGHTED")).isInstanceOf(LatencyWeightedLoadBalancer.class);
+    }
+
+    @Test
+    void testForStrategyRejectsUnknownStrategy() {
+        assertThatThrownBy(() -> ReplicaLoadBalancer.forStrategy("round-robin"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported load balancing strategy: round-robin");
+    }
+
+    @Test
+    void testLeastOutstandingSelectsReplicaWithFewestRequests() {
+        ReplicaNode busy = replicaWithOutstandingRequests(3);
+        ReplicaNode idle = replicaWithOutstandingRequests(1);
+        ReplicaNode busiest = replicaWithOutstandingRequests(5);
+        LeastOutstandingRequestsLoadBalancer balancer = new LeastOutstandingRequestsLoadBalancer();
+
+        IntStream.range(0, 100).forEach(i ->
+                assertThat(balancer.select(List.of(busy, idle, busiest))).isSameAs(idle));
+    }
+
+    @Test
+    void testLatencyWeightedFavoursFasterReplica() {
+        ReplicaNode fast = replicaWithLatency(1);
+        ReplicaNode slow = replicaWithLatency(100);
+        LatencyWeightedLoadBalancer balancer = new LatencyWeightedLoadBalancer();
+
+        long fastSelections = IntStream.range(0, 1000)
+                .filter(i -> balancer.select(List.of(fast, slow)) == fast)
+                .count();
+
+        assertThat(fastSelections).isGreaterThan(900);
+    }
+
+    private ReplicaNode replicaWithOutstandingRequests(int outstandingRequests) {
+        ReplicaNode replica = new ReplicaNode("jdbc:test://replica", mock(DataSource.class));
+        IntStream.range(0, outstandingRequests).forEach(i -> replica.acquire());
+        return replica;
+    }
+
+    private ReplicaNode replicaWithLatency(long latencyMillis) {
+        ReplicaNode replica = new ReplicaNode("jdbc:test://replica", mock(DataSource.class));
+        replica.acquire();
+        replica.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        return replica;
+    }
+}
@@ -0,0 +1,90 @@
+package com.aggregator.routing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link ReplicaNode}.
+ */
+class ReplicaNodeTest {
+
+    private final ReplicaNode replica = new ReplicaNode("jdbc:test://replica", mock(DataSource.class));
+
+    @Test
+    void testHealthyReplicaWithoutLagLimitIsEligible() {
+        assertThat(replica.isEligible(null)).isTrue();
+    }
+
+    @Test
+    void testUnhealthyReplicaIsNotEligible() {
+        replica.setHealthy(false);
+
+        assertThat(replica.isEligible(null)).isFalse();
+    }
+
+    @Test
+    void testLagLimitExcludesLaggingReplica() {
+        replica.setReplicationLagSeconds(10L);
+
+        assertThat(replica.isEligible(10L)).isTrue();
+        assertThat(replica.isEligible(9L)).isFalse();
+    }
+
+    @Test
+    void testUnknownLagIsNotEligibleUnderLagLimit() {
+        replica.setReplicationLagSeconds(null);
+
+        assertThat(replica.isEligible(10L)).isFalse();
+        assertThat(replica.isEligible(null)).isTrue();
+    }
+
+    @Test
+    void testReleaseTracksOutstandingRequestsAndLatency() {
+        replica.acquire();
+        replica.acquire();
+        assertThat(replica.getOutstandingRequests()).isEqualTo(2);
+
+        replica.release(TimeUnit.MILLISECONDS.toNanos(10));
+        replica.release(TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertThat(replica.getOutstandingRequests()).isZero();
+        assertThat(replica.getLatencyMillis()).isCloseTo(12.0, within(1e-9));
+    }
+
+    @Test
+    void testAbortDoesNotRecordLatency() {
+        replica.acquire();
+
+        replica.abort();
+
+        assertThat(replica.getOutstandingRequests()).isZero();
+        assertThat(replica.getLatencyMillis()).isZero();
+    }
+
+    @Test
+    void testRecoveryResetsLatency() {
+        replica.acquire();
+        replica.release(TimeUnit.SECONDS.toNanos(30));
+
+        replica.setHealthy(false);
+        replica.setHealthy(true);
+
+        assertThat(replica.getLatencyMillis()).isZero();
+    }
+
+    @Test
+    void testStayingHealthyKeepsLatency() {
+        replica.acquire();
+        replica.release(TimeUnit.MILLISECONDS.toNanos(5));
+
+        replica.setHealthy(true);
+
+        assertThat(replica.getLatencyMillis()).isEqualTo(5.0);
+    }
+}